@@ -0,0 +1,41 @@
+package com.library.repository;
+
+import com.library.model.Book;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryBookRepository implements BookRepository {
+    private final Map<String, Book> books = new ConcurrentHashMap<>();
+
+    @Override
+    public Book findByIsbn(String isbn) {
+        return books.get(isbn);
+    }
+
+    @Override
+    public void save(Book book) {
+        books.put(book.getIsbn(), book);
+    }
+
+    @Override
+    public List<Book> findAvailableBooks() {
+        List<Book> available = new ArrayList<>();
+        for (Book book : books.values()) {
+            if (book.isAvailable()) {
+                available.add(book);
+            }
+        }
+        return available;
+    }
+
+    public List<Book> findAll() {
+        return new ArrayList<>(books.values());
+    }
+
+    public int size() {
+        return books.size();
+    }
+}
@@ -0,0 +1,42 @@
+package com.library.repository;
+
+import com.library.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryUserRepository implements UserRepository {
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+
+    @Override
+    public User findById(String userId) {
+        return users.get(userId);
+    }
+
+    @Override
+    public void save(User user) {
+        users.put(user.getUserId(), user);
+    }
+
+    @Override
+    public List<User> findUsersWithOverdueBooks() {
+        // Simplified - any outstanding loan is treated as overdue
+        List<User> overdue = new ArrayList<>();
+        for (User user : users.values()) {
+            if (user.getBorrowedBooksCount() > 0) {
+                overdue.add(user);
+            }
+        }
+        return overdue;
+    }
+
+    public List<User> findAll() {
+        return new ArrayList<>(users.values());
+    }
+
+    public int size() {
+        return users.size();
+    }
+}
@@ -1,9 +1,22 @@
 package com.library.service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface EmailService {
     void sendBorrowConfirmation(String email, String bookTitle);
     void sendOverdueNotification(String email, String userName, List<String> overdueBooks);
     void sendReturnConfirmation(String email, String bookTitle);
-}
\ No newline at end of file
+
+    /**
+     * Sends a batch of pre-rendered overdue notices. The digests are reused once this
+     * returns, so implementations must copy anything they keep. The default falls back
+     * to one {@link #sendOverdueNotification} call per digest.
+     */
+    default void sendOverdueDigests(List<OverdueDigest> digests) {
+        for (OverdueDigest digest : digests) {
+            sendOverdueNotification(digest.getEmail(), digest.getUserName(),
+                    new ArrayList<>(digest.getOverdueBooks()));
+        }
+    }
+}
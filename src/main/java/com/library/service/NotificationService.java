@@ -3,15 +3,32 @@ import com.library.model.User;
 import com.library.repository.UserRepository;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class NotificationService {
+    public static final int DEFAULT_DIGEST_BATCH_SIZE = 256;
+
     private UserRepository userRepository;
     private EmailService emailService;
+    private OverdueDigestTemplate digestTemplate;
+    private int digestBatchSize;
+    private boolean bulkDigestSupported;
 
     public NotificationService(UserRepository userRepository, EmailService emailService) {
+        this(userRepository, emailService, OverdueDigestTemplate.DEFAULT, DEFAULT_DIGEST_BATCH_SIZE);
+    }
+
+    public NotificationService(UserRepository userRepository, EmailService emailService,
+                               OverdueDigestTemplate digestTemplate, int digestBatchSize) {
+        if (digestBatchSize <= 0) {
+            throw new IllegalArgumentException("digestBatchSize must be positive: " + digestBatchSize);
+        }
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.digestTemplate = digestTemplate;
+        this.digestBatchSize = digestBatchSize;
+        this.bulkDigestSupported = overridesSendOverdueDigests(emailService);
     }
 
     public void sendOverdueNotifications() {
@@ -25,8 +42,69 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Renders every overdue user's notice with the compiled template and hands them to
+     * {@link EmailService#sendOverdueDigests(List)} in batches. Digest buffers are
+     * allocated once per call and reused across batches.
+     *
+     * If the EmailService only inherits the default bulk method, it would discard the rendered
+     * bodies and copy each user's titles. In that case this method skips rendering and
+     * behaves exactly like {@link #sendOverdueNotifications()}.
+     */
+    public void sendOverdueDigests() {
+        if (!bulkDigestSupported) {
+            sendOverdueNotifications();
+            return;
+        }
+        List<User> usersWithOverdueBooks = userRepository.findUsersWithOverdueBooks();
+
+        OverdueDigest[] slots = new OverdueDigest[Math.min(digestBatchSize, Math.max(1, usersWithOverdueBooks.size()))];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new OverdueDigest();
+        }
+        List<OverdueDigest> batch = Arrays.asList(slots);
+
+        int filled = 0;
+        for (User user : usersWithOverdueBooks) {
+            OverdueDigest digest = slots[filled];
+            digest.reset(user);
+            collectOverdueBookTitles(user, digest.overdueBooksBuffer());
+            if (digest.overdueBooksBuffer().isEmpty()) {
+                continue;
+            }
+            digestTemplate.render(digest, digest.bodyBuffer());
+
+            if (++filled == slots.length) {
+                emailService.sendOverdueDigests(batch);
+                filled = 0;
+            }
+        }
+        if (filled > 0) {
+            emailService.sendOverdueDigests(batch.subList(0, filled));
+        }
+    }
+
+    private static boolean overridesSendOverdueDigests(EmailService emailService) {
+        if (emailService == null) {
+            return false;
+        }
+        try {
+            return emailService.getClass().getMethod("sendOverdueDigests", List.class).getDeclaringClass()
+                    != EmailService.class;
+        } catch (NoSuchMethodException e) {
+            // Unreachable: the method is declared on the interface
+            return false;
+        }
+    }
+
+    // Simplified - in real app would check dates. Both lookups below read from here.
+    private static final String[] SAMPLE_OVERDUE_TITLES = { "Sample Overdue Book 1", "Sample Overdue Book 2" };
+
     private List<String> getOverdueBookTitles(User user) {
-        // Simplified - in real app would check dates
-        return Arrays.asList("Sample Overdue Book 1", "Sample Overdue Book 2");
+        return Arrays.asList(SAMPLE_OVERDUE_TITLES.clone());
+    }
+
+    private void collectOverdueBookTitles(User user, List<String> titles) {
+        Collections.addAll(titles, SAMPLE_OVERDUE_TITLES);
     }
 }
@@ -0,0 +1,36 @@
+package com.library.service;
+
+import com.library.model.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One user's overdue notice: the aggregated book titles and the rendered message body.
+ * Instances are reused from batch to batch, so they are only valid for the duration
+ * of the {@link EmailService#sendOverdueDigests(List)} call that receives them.
+ */
+public class OverdueDigest {
+    private String email;
+    private String userName;
+    private final List<String> overdueBooks = new ArrayList<>();
+    private final List<String> overdueBooksView = Collections.unmodifiableList(overdueBooks);
+    private final StringBuilder body = new StringBuilder(256);
+
+    void reset(User user) {
+        this.email = user.getEmail();
+        this.userName = user.getName();
+        this.overdueBooks.clear();
+        this.body.setLength(0);
+    }
+
+    List<String> overdueBooksBuffer() { return overdueBooks; }
+    StringBuilder bodyBuffer() { return body; }
+
+    // Getters
+    public String getEmail() { return email; }
+    public String getUserName() { return userName; }
+    public List<String> getOverdueBooks() { return overdueBooksView; }
+    public CharSequence getBody() { return body; }
+}
@@ -0,0 +1,83 @@
+package com.library.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Overdue notice template parsed once into literal and placeholder segments, so rendering
+ * is a straight sequence of appends into the digest's buffer.
+ *
+ * Supported placeholders: {name}, {email}, {count} and {books} (one "  - title" line per book).
+ */
+public class OverdueDigestTemplate {
+    public static final OverdueDigestTemplate DEFAULT = compile(
+            "Dear {name},\n\n"
+                    + "The following {count} book(s) are overdue:\n"
+                    + "{books}\n"
+                    + "Please return them as soon as possible.\n");
+
+    private enum Placeholder { NAME, EMAIL, COUNT, BOOKS }
+
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+
+    private OverdueDigestTemplate(String[] literals, Placeholder[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    public static OverdueDigestTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf('{', position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at index " + open);
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(parsePlaceholder(source.substring(open + 1, close)));
+            position = close + 1;
+        }
+        literals.add(source.substring(position));
+        return new OverdueDigestTemplate(literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+    }
+
+    public void render(OverdueDigest digest, StringBuilder out) {
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            switch (placeholders[i]) {
+                case NAME:
+                    out.append(digest.getUserName());
+                    break;
+                case EMAIL:
+                    out.append(digest.getEmail());
+                    break;
+                case COUNT:
+                    out.append(digest.getOverdueBooks().size());
+                    break;
+                case BOOKS:
+                    List<String> books = digest.getOverdueBooks();
+                    for (int b = 0; b < books.size(); b++) {
+                        out.append("  - ").append(books.get(b)).append('\n');
+                    }
+                    break;
+            }
+        }
+        out.append(literals[literals.length - 1]);
+    }
+
+    private static Placeholder parsePlaceholder(String name) {
+        switch (name) {
+            case "name": return Placeholder.NAME;
+            case "email": return Placeholder.EMAIL;
+            case "count": return Placeholder.COUNT;
+            case "books": return Placeholder.BOOKS;
+            default: throw new IllegalArgumentException("Unknown placeholder: {" + name + "}");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.library.startup;
+
+import com.library.model.Book;
+import com.library.model.User;
+import com.library.repository.InMemoryBookRepository;
+import com.library.repository.InMemoryUserRepository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Point-in-time copy of books and users, written in a compact binary form so a restarting
+ * in-memory node can fill its empty repositories without regenerating the catalog. It is a
+ * startup cache, not a backup: restoring never overwrites entries that are already present.
+ */
+public class LibrarySnapshot {
+    private static final int MAGIC = 0x4C494253; // "LIBS"
+    private static final int VERSION = 1;
+    // Smallest possible encodings: three empty UTF strings plus the flag or count
+    private static final int MIN_BOOK_BYTES = 3 * 2 + 1;
+    private static final int MIN_USER_BYTES = 3 * 2 + 4;
+
+    private final List<Book> books;
+    private final List<User> users;
+
+    public LibrarySnapshot(Collection<Book> books, Collection<User> users) {
+        this.books = new ArrayList<>(books);
+        this.users = new ArrayList<>(users);
+    }
+
+    /**
+     * @throws IllegalStateException if either repository already holds data, whose live
+     *         availability and loan counts the snapshot would otherwise roll back
+     */
+    public void restoreInto(InMemoryBookRepository bookRepository, InMemoryUserRepository userRepository) {
+        if (bookRepository.size() > 0 || userRepository.size() > 0) {
+            throw new IllegalStateException("Snapshots can only be restored into empty repositories");
+        }
+        for (Book book : books) {
+            bookRepository.save(book);
+        }
+        for (User user : users) {
+            userRepository.save(user);
+        }
+    }
+
+    /**
+     * Writes to a temporary sibling, forces it to disk and then renames it into place, so the
+     * final name holds either the previous snapshot or the complete new one. The temporary
+     * file is removed if anything fails before the rename.
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        boolean moved = false;
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(books.size());
+                for (Book book : books) {
+                    out.writeUTF(book.getIsbn());
+                    out.writeUTF(book.getTitle());
+                    out.writeUTF(book.getAuthor());
+                    out.writeBoolean(book.isAvailable());
+                }
+                out.writeInt(users.size());
+                for (User user : users) {
+                    out.writeUTF(user.getUserId());
+                    out.writeUTF(user.getName());
+                    out.writeUTF(user.getEmail());
+                    out.writeInt(user.getBorrowedBooksCount());
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    public static LibrarySnapshot read(Path file) throws IOException {
+        long fileSize = Files.size(file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a library snapshot: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + file);
+            }
+            int bookCount = readCount(in, "book", fileSize / MIN_BOOK_BYTES, file);
+            List<Book> books = new ArrayList<>(bookCount);
+            for (int i = 0; i < bookCount; i++) {
+                Book book = new Book(in.readUTF(), in.readUTF(), in.readUTF());
+                book.setAvailable(in.readBoolean());
+                books.add(book);
+            }
+            int userCount = readCount(in, "user", fileSize / MIN_USER_BYTES, file);
+            List<User> users = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                User user = new User(in.readUTF(), in.readUTF(), in.readUTF());
+                int borrowed = in.readInt();
+                if (borrowed < 0) {
+                    throw new IOException("Corrupt snapshot " + file + ": negative borrowed count " + borrowed);
+                }
+                user.setBorrowedBooksCount(borrowed);
+                users.add(user);
+            }
+            return new LibrarySnapshot(books, users);
+        }
+    }
+
+    // A count the file is too small to hold is corrupt, and must not size an allocation
+    private static int readCount(DataInputStream in, String kind, long max, Path file) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > max) {
+            throw new IOException("Corrupt snapshot " + file + ": invalid " + kind + " count " + count);
+        }
+        return count;
+    }
+
+    public List<Book> getBooks() { return books; }
+    public List<User> getUsers() { return users; }
+}
@@ -0,0 +1,122 @@
+package com.library.startup;
+
+import com.library.repository.InMemoryBookRepository;
+import com.library.repository.InMemoryUserRepository;
+import com.library.service.LibraryService;
+import com.library.service.NotificationService;
+import com.library.workload.CountingEmailService;
+import com.library.workload.LatencyRecorder;
+import com.library.workload.LoadDriver;
+import com.library.workload.LoadReport;
+import com.library.workload.OperationType;
+import com.library.workload.WorkloadConfig;
+import com.library.workload.WorkloadGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Starts a library node cold or in fast-start mode and reports time-to-first-request and
+ * time-to-steady-state p99 of borrow/return requests, both measured from JVM start.
+ * Run each mode in a fresh JVM.
+ *
+ * Usage: StartupBenchmark [--fast-start] [--train] [--snapshot file] [--windows n] [--window-ops n]
+ *
+ * --train saves a snapshot of the freshly loaded repositories before any traffic. The appcds
+ * Maven profile uses the training run to record the class list for the AppCDS archive.
+ */
+public class StartupBenchmark {
+    // A window counts as steady once it and every later window is within this factor of the settled p99
+    private static final double STEADY_STATE_TOLERANCE = 1.5;
+
+    public static void main(String[] args) throws Exception {
+        boolean fastStartMode = false;
+        boolean train = false;
+        Path snapshot = Paths.get("target", "library-snapshot.dat");
+        int windows = 40;
+        int windowOps = 5_000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fast-start": fastStartMode = true; break;
+                case "--train": train = true; break;
+                case "--snapshot": snapshot = Paths.get(args[++i]); break;
+                case "--windows": windows = Integer.parseInt(args[++i]); break;
+                case "--window-ops": windowOps = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        WorkloadConfig config = new WorkloadConfig();
+        WorkloadGenerator generator = new WorkloadGenerator(config);
+        InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        FastStart fastStart = new FastStart(snapshot);
+
+        String mode = "cold";
+        if (fastStartMode) {
+            mode = fastStart.restore(bookRepository, userRepository) ? "fast-start" : "fast-start (no usable snapshot)";
+        }
+        if (bookRepository.size() == 0) {
+            // A separate generator, so stored ids are never the same String instances the load
+            // uses; restored snapshots never share identity with them either
+            new WorkloadGenerator(config).populate(bookRepository, userRepository);
+        }
+        // Saved before any traffic, so fast-start runs begin from the same catalog state as cold ones
+        if (train) {
+            fastStart.saveSnapshot(bookRepository, userRepository);
+        }
+        if (fastStartMode) {
+            fastStart.warmUp();
+        }
+
+        CountingEmailService emailService = new CountingEmailService();
+        LibraryService libraryService = new LibraryService(bookRepository, userRepository, emailService);
+        NotificationService notificationService = new NotificationService(userRepository, emailService);
+        LoadDriver driver = new LoadDriver(libraryService, notificationService, generator);
+
+        String userId = generator.getUsers().get(0).getUserId();
+        String isbn = generator.getBooks().get(generator.getBooks().size() - 1).getIsbn();
+        libraryService.borrowBook(userId, isbn);
+        long firstRequestMillis = System.currentTimeMillis() - jvmStart;
+        libraryService.returnBook(userId, isbn);
+
+        long[] windowP99 = new long[windows];
+        long[] windowEndMillis = new long[windows];
+        for (int w = 0; w < windows; w++) {
+            LoadReport report = driver.runClosedLoop(1, windowOps);
+            LatencyRecorder requests = new LatencyRecorder();
+            requests.merge(report.getLatencies(OperationType.BORROW));
+            requests.merge(report.getLatencies(OperationType.RETURN));
+            windowP99[w] = requests.percentile(99);
+            windowEndMillis[w] = System.currentTimeMillis() - jvmStart;
+        }
+
+        long settled = settledP99(windowP99);
+        int steady = windows - 1;
+        while (steady > 0 && windowP99[steady - 1] <= settled * STEADY_STATE_TOLERANCE) {
+            steady--;
+        }
+
+        System.out.printf(Locale.ROOT, "mode:                  %s%n", mode);
+        System.out.printf(Locale.ROOT, "time-to-first-request: %d ms%n", firstRequestMillis);
+        System.out.printf(Locale.ROOT, "time-to-steady-state:  %d ms (window %d of %d)%n",
+                windowEndMillis[steady], steady + 1, windows);
+        System.out.printf(Locale.ROOT, "first window p99:      %.1f us%n", windowP99[0] / 1e3);
+        System.out.printf(Locale.ROOT, "steady-state p99:      %.1f us%n", settled / 1e3);
+
+        if (train) {
+            System.out.println("snapshot written to " + snapshot);
+        }
+    }
+
+    // Median p99 of the last five windows
+    private static long settledP99(long[] windowP99) {
+        long[] tail = Arrays.copyOfRange(windowP99, Math.max(0, windowP99.length - 5), windowP99.length);
+        Arrays.sort(tail);
+        return tail[tail.length / 2];
+    }
+}
@@ -0,0 +1,33 @@
+package com.library.workload;
+
+import com.library.service.EmailService;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EmailService that only counts messages, so load runs measure the library code
+ * rather than a mail transport.
+ */
+public class CountingEmailService implements EmailService {
+    private final LongAdder sent = new LongAdder();
+
+    @Override
+    public void sendBorrowConfirmation(String email, String bookTitle) {
+        sent.increment();
+    }
+
+    @Override
+    public void sendOverdueNotification(String email, String userName, List<String> overdueBooks) {
+        sent.increment();
+    }
+
+    @Override
+    public void sendReturnConfirmation(String email, String bookTitle) {
+        sent.increment();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package com.library.workload;
+
+import com.library.model.User;
+import com.library.repository.InMemoryUserRepository;
+import com.library.service.NotificationService;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Compares the per-user overdue notification path against the batched digest path:
+ * throughput and bytes allocated per user on the calling thread.
+ *
+ * Usage: DigestBenchmark [users] [iterations]
+ */
+public class DigestBenchmark {
+
+    public static void main(String[] args) {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        for (int i = 0; i < userCount; i++) {
+            User user = new User(String.format("U%07d", i), "Patron " + i, "patron" + i + "@example.com");
+            user.setBorrowedBooksCount(2);
+            userRepository.save(user);
+        }
+        RenderingEmailService emailService = new RenderingEmailService();
+        NotificationService notificationService = new NotificationService(userRepository, emailService);
+
+        // Warm up both paths before measuring
+        for (int i = 0; i < 2; i++) {
+            notificationService.sendOverdueNotifications();
+            notificationService.sendOverdueDigests();
+        }
+
+        System.out.printf(Locale.ROOT, "%-10s %12s %14s %14s%n", "path", "users/s", "bytes/user", "alloc MB/s");
+        for (int i = 0; i < iterations; i++) {
+            report("per-user", userCount, measure(notificationService::sendOverdueNotifications));
+            report("digest", userCount, measure(notificationService::sendOverdueDigests));
+        }
+        System.out.printf(Locale.ROOT, "(%d messages, %d chars rendered)%n",
+                emailService.getMessages(), emailService.getBytesRendered());
+    }
+
+    private static long[] measure(Runnable run) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        run.run();
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new long[] { elapsed, allocated };
+    }
+
+    private static void report(String path, int userCount, long[] result) {
+        double seconds = result[0] / 1e9;
+        System.out.printf(Locale.ROOT, "%-10s %12.0f %14.1f %14.1f%n", path,
+                userCount / seconds, (double) result[1] / userCount, result[1] / 1e6 / seconds);
+    }
+}
@@ -0,0 +1,58 @@
+package com.library.workload;
+
+import java.util.Arrays;
+
+/**
+ * Append-only store of latency samples in nanoseconds. Not thread-safe: each
+ * worker owns its recorders and they are merged once the run is over.
+ */
+public class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count;
+    private long successes;
+    private boolean sorted = true;
+
+    public void record(long nanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (success) {
+            successes++;
+        }
+        sorted = false;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        successes += other.successes;
+        sorted = false;
+    }
+
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        sort();
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return samples[Math.max(0, Math.min(rank, count) - 1)];
+    }
+
+    public long max() {
+        return percentile(100);
+    }
+
+    public int getCount() { return count; }
+    public long getSuccesses() { return successes; }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.library.workload;
+
+import com.library.repository.InMemoryBookRepository;
+import com.library.repository.InMemoryUserRepository;
+import com.library.service.LibraryService;
+import com.library.service.NotificationService;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link WorkloadGenerator} against the library services in-process.
+ *
+ * Closed-loop runs issue the next operation as soon as the previous one completes, so they
+ * measure capacity. Open-loop runs issue operations on a fixed schedule and time each one
+ * from its intended start, so queueing delay shows up in the percentiles when the service
+ * falls behind instead of being hidden by a slower arrival rate.
+ *
+ * Each worker thread index keeps its {@link WorkloadSession} across runs, so consecutive runs
+ * continue the operation stream and return the loans earlier runs made, rather than replaying
+ * the same sequence and leaking loans. Runs on one driver are therefore serialized.
+ *
+ * With more than one thread, success counts are approximate. The in-memory repositories
+ * hand the same Book and User objects to every worker, and LibraryService checks and updates
+ * them without synchronization. Two workers can then both borrow a popular book, or lose a
+ * borrowed-count update. Use a single thread when exact loan bookkeeping matters.
+ */
+public class LoadDriver {
+    private final LibraryService libraryService;
+    private final NotificationService notificationService;
+    private final WorkloadGenerator generator;
+    private final List<WorkloadSession> sessions = new ArrayList<>();
+
+    public LoadDriver(LibraryService libraryService,
+                      NotificationService notificationService,
+                      WorkloadGenerator generator) {
+        this.libraryService = libraryService;
+        this.notificationService = notificationService;
+        this.generator = generator;
+    }
+
+    /**
+     * Wires a driver to fresh in-memory repositories populated from the generator and a
+     * {@link CountingEmailService}, so runs are fully self-contained.
+     */
+    public static LoadDriver inMemory(WorkloadGenerator generator) {
+        InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        CountingEmailService emailService = new CountingEmailService();
+        generator.populate(bookRepository, userRepository);
+
+        LibraryService libraryService = new LibraryService(bookRepository, userRepository, emailService);
+        NotificationService notificationService = new NotificationService(userRepository, emailService);
+        return new LoadDriver(libraryService, notificationService, generator);
+    }
+
+    public LoadReport runClosedLoop(int threads, long operationsPerThread) {
+        return run("closed-loop", threads, operationsPerThread, 0);
+    }
+
+    public LoadReport runOpenLoop(int threads, double operationsPerSecond, long operationsPerThread) {
+        if (operationsPerSecond <= 0) {
+            throw new IllegalArgumentException("operationsPerSecond must be positive: " + operationsPerSecond);
+        }
+        long intervalNanos = (long) (threads * 1_000_000_000.0 / operationsPerSecond);
+        return run("open-loop", threads, operationsPerThread, Math.max(1, intervalNanos));
+    }
+
+    boolean execute(Operation operation) {
+        switch (operation.getType()) {
+            case BORROW:
+                return libraryService.borrowBook(operation.getUserId(), operation.getIsbn());
+            case RETURN:
+                return libraryService.returnBook(operation.getUserId(), operation.getIsbn());
+            case SEARCH:
+                return !libraryService.searchAvailableBooks().isEmpty();
+            case NOTIFY:
+                notificationService.sendOverdueNotifications();
+                return true;
+            default:
+                throw new IllegalStateException("Unknown operation type: " + operation.getType());
+        }
+    }
+
+    long outstandingLoans() {
+        long loans = 0;
+        synchronized (this) {
+            for (WorkloadSession session : sessions) {
+                loans += session.outstandingLoans();
+            }
+        }
+        return loans;
+    }
+
+    private synchronized LoadReport run(String mode, int threads, long operationsPerThread, long intervalNanos) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Worker[] workers = new Worker[threads];
+        Thread[] runners = new Thread[threads];
+        long[] startTime = new long[1];
+
+        for (int i = 0; i < threads; i++) {
+            long offset = intervalNanos / threads * i;
+            if (i == sessions.size()) {
+                sessions.add(generator.newSession(i));
+            }
+            workers[i] = new Worker(sessions.get(i), startGate, startTime,
+                    operationsPerThread, intervalNanos, offset, failure);
+            runners[i] = new Thread(workers[i], "load-worker-" + i);
+            runners[i].start();
+        }
+
+        startTime[0] = System.nanoTime();
+        startGate.countDown();
+        for (Thread runner : runners) {
+            try {
+                runner.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for load workers", e);
+            }
+        }
+        long elapsed = System.nanoTime() - startTime[0];
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("Load worker failed", failure.get());
+        }
+
+        Map<OperationType, LatencyRecorder> merged = new EnumMap<>(OperationType.class);
+        for (Worker worker : workers) {
+            for (Map.Entry<OperationType, LatencyRecorder> entry : worker.latencies.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), type -> new LatencyRecorder()).merge(entry.getValue());
+            }
+        }
+        return new LoadReport(mode, elapsed, merged);
+    }
+
+    private class Worker implements Runnable {
+        private final WorkloadSession session;
+        private final CountDownLatch startGate;
+        private final long[] startTime;
+        private final long operations;
+        private final long intervalNanos;
+        private final long offsetNanos;
+        private final AtomicReference<Throwable> failure;
+        private final Map<OperationType, LatencyRecorder> latencies = new EnumMap<>(OperationType.class);
+
+        Worker(WorkloadSession session, CountDownLatch startGate, long[] startTime, long operations,
+               long intervalNanos, long offsetNanos, AtomicReference<Throwable> failure) {
+            this.session = session;
+            this.startGate = startGate;
+            this.startTime = startTime;
+            this.operations = operations;
+            this.intervalNanos = intervalNanos;
+            this.offsetNanos = offsetNanos;
+            this.failure = failure;
+            for (OperationType type : OperationType.values()) {
+                latencies.put(type, new LatencyRecorder());
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                startGate.await();
+                // Read after the latch, which publishes the coordinator's write
+                long scheduleStart = startTime[0] + offsetNanos;
+                for (long i = 0; i < operations && failure.get() == null; i++) {
+                    Operation operation = session.next();
+                    long begin;
+                    if (intervalNanos > 0) {
+                        begin = scheduleStart + i * intervalNanos;
+                        long wait;
+                        while ((wait = begin - System.nanoTime()) > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                    } else {
+                        begin = System.nanoTime();
+                    }
+                    boolean success = execute(operation);
+                    latencies.get(operation.getType()).record(System.nanoTime() - begin, success);
+                    session.completed(operation, success);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+}
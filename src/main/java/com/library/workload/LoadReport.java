@@ -0,0 +1,67 @@
+package com.library.workload;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of a completed load run, broken down by operation type.
+ */
+public class LoadReport {
+    private final String mode;
+    private final long elapsedNanos;
+    private final Map<OperationType, LatencyRecorder> latencies;
+    private final LatencyRecorder overall = new LatencyRecorder();
+
+    LoadReport(String mode, long elapsedNanos, Map<OperationType, LatencyRecorder> latencies) {
+        this.mode = mode;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = new EnumMap<>(latencies);
+        for (LatencyRecorder recorder : latencies.values()) {
+            overall.merge(recorder);
+        }
+    }
+
+    public long getTotalOperations() {
+        return overall.getCount();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : overall.getCount() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public LatencyRecorder getLatencies(OperationType type) {
+        LatencyRecorder recorder = latencies.get(type);
+        return recorder != null ? recorder : new LatencyRecorder();
+    }
+
+    public LatencyRecorder getOverall() {
+        return overall;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%s: %d ops in %.3f s, %.0f ops/s%n",
+                mode, getTotalOperations(), elapsedNanos / 1e9, getThroughput()));
+        out.append(String.format(Locale.ROOT, "%-8s %10s %10s %10s %10s %10s %10s %10s%n",
+                "op", "count", "ok", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)"));
+        for (OperationType type : OperationType.values()) {
+            appendRow(out, type.name(), getLatencies(type));
+        }
+        appendRow(out, "ALL", overall);
+        return out.toString();
+    }
+
+    private static void appendRow(StringBuilder out, String label, LatencyRecorder recorder) {
+        out.append(String.format(Locale.ROOT, "%-8s %10d %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                label, recorder.getCount(), recorder.getSuccesses(),
+                recorder.percentile(50) / 1e3, recorder.percentile(90) / 1e3,
+                recorder.percentile(99) / 1e3, recorder.percentile(99.9) / 1e3,
+                recorder.max() / 1e3));
+    }
+}
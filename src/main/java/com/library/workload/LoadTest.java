@@ -0,0 +1,33 @@
+package com.library.workload;
+
+/**
+ * Command-line entry point for in-process load runs.
+ *
+ * Usage: LoadTest [closed|open] [threads] [opsPerThread] [opsPerSecond] [books] [users] [zipfExponent]
+ */
+public class LoadTest {
+
+    public static void main(String[] args) {
+        String mode = args.length > 0 ? args[0] : "closed";
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long operationsPerThread = args.length > 2 ? Long.parseLong(args[2]) : 200_000;
+        double operationsPerSecond = args.length > 3 ? Double.parseDouble(args[3]) : 50_000;
+
+        WorkloadConfig config = new WorkloadConfig();
+        if (args.length > 4) config.setBookCount(Integer.parseInt(args[4]));
+        if (args.length > 5) config.setUserCount(Integer.parseInt(args[5]));
+        if (args.length > 6) config.setZipfExponent(Double.parseDouble(args[6]));
+
+        LoadDriver driver = LoadDriver.inMemory(new WorkloadGenerator(config));
+
+        LoadReport report;
+        if ("open".equals(mode)) {
+            report = driver.runOpenLoop(threads, operationsPerSecond, operationsPerThread);
+        } else if ("closed".equals(mode)) {
+            report = driver.runClosedLoop(threads, operationsPerThread);
+        } else {
+            throw new IllegalArgumentException("Unknown mode: " + mode + " (expected closed or open)");
+        }
+        System.out.print(report);
+    }
+}
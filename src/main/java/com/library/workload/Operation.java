@@ -0,0 +1,17 @@
+package com.library.workload;
+
+public class Operation {
+    private final OperationType type;
+    private final String userId;
+    private final String isbn;
+
+    public Operation(OperationType type, String userId, String isbn) {
+        this.type = type;
+        this.userId = userId;
+        this.isbn = isbn;
+    }
+
+    public OperationType getType() { return type; }
+    public String getUserId() { return userId; }
+    public String getIsbn() { return isbn; }
+}
@@ -0,0 +1,8 @@
+package com.library.workload;
+
+public enum OperationType {
+    BORROW,
+    RETURN,
+    SEARCH,
+    NOTIFY
+}
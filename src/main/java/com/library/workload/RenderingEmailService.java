@@ -0,0 +1,53 @@
+package com.library.workload;
+
+import com.library.service.EmailService;
+import com.library.service.OverdueDigest;
+
+import java.util.List;
+
+/**
+ * EmailService that builds each message body the way a typical implementation does and
+ * discards it. Per-user overdue notices are rendered from scratch; digests arrive
+ * already rendered, so only their bodies are consumed.
+ */
+public class RenderingEmailService implements EmailService {
+    private long bytesRendered;
+    private long messages;
+
+    @Override
+    public void sendBorrowConfirmation(String email, String bookTitle) {
+        consume("Dear patron,\n\nYou have borrowed " + bookTitle + ".\n");
+    }
+
+    @Override
+    public void sendOverdueNotification(String email, String userName, List<String> overdueBooks) {
+        StringBuilder body = new StringBuilder();
+        body.append("Dear ").append(userName).append(",\n\n")
+                .append("The following ").append(overdueBooks.size()).append(" book(s) are overdue:\n");
+        for (String title : overdueBooks) {
+            body.append("  - ").append(title).append('\n');
+        }
+        body.append("\nPlease return them as soon as possible.\n");
+        consume(body.toString());
+    }
+
+    @Override
+    public void sendReturnConfirmation(String email, String bookTitle) {
+        consume("Dear patron,\n\nYou have returned " + bookTitle + ".\n");
+    }
+
+    @Override
+    public void sendOverdueDigests(List<OverdueDigest> digests) {
+        for (int i = 0; i < digests.size(); i++) {
+            consume(digests.get(i).getBody());
+        }
+    }
+
+    public long getBytesRendered() { return bytesRendered; }
+    public long getMessages() { return messages; }
+
+    private void consume(CharSequence body) {
+        bytesRendered += body.length();
+        messages++;
+    }
+}
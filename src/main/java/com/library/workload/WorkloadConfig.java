@@ -0,0 +1,38 @@
+package com.library.workload;
+
+/**
+ * Shape of a synthetic workload: catalog and patron sizes, book popularity skew
+ * and the relative weights of each operation type.
+ */
+public class WorkloadConfig {
+    private int bookCount = 10_000;
+    private int userCount = 5_000;
+    private double zipfExponent = 1.0;
+    private int borrowWeight = 40;
+    private int returnWeight = 35;
+    private int searchWeight = 24;
+    private int notifyWeight = 1;
+    private long seed = 42L;
+
+    // Getters and setters
+    public int getBookCount() { return bookCount; }
+    public void setBookCount(int bookCount) { this.bookCount = bookCount; }
+    public int getUserCount() { return userCount; }
+    public void setUserCount(int userCount) { this.userCount = userCount; }
+    public double getZipfExponent() { return zipfExponent; }
+    public void setZipfExponent(double zipfExponent) { this.zipfExponent = zipfExponent; }
+    public int getBorrowWeight() { return borrowWeight; }
+    public void setBorrowWeight(int borrowWeight) { this.borrowWeight = borrowWeight; }
+    public int getReturnWeight() { return returnWeight; }
+    public void setReturnWeight(int returnWeight) { this.returnWeight = returnWeight; }
+    public int getSearchWeight() { return searchWeight; }
+    public void setSearchWeight(int searchWeight) { this.searchWeight = searchWeight; }
+    public int getNotifyWeight() { return notifyWeight; }
+    public void setNotifyWeight(int notifyWeight) { this.notifyWeight = notifyWeight; }
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getTotalWeight() {
+        return borrowWeight + returnWeight + searchWeight + notifyWeight;
+    }
+}
@@ -0,0 +1,68 @@
+package com.library.workload;
+
+import com.library.model.Book;
+import com.library.model.User;
+import com.library.repository.BookRepository;
+import com.library.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds a synthetic catalog and patron population and hands out per-thread
+ * {@link WorkloadSession}s that draw operations from the configured mix.
+ */
+public class WorkloadGenerator {
+    private final WorkloadConfig config;
+    private final List<Book> books;
+    private final List<User> users;
+    private final ZipfDistribution popularity;
+
+    public WorkloadGenerator(WorkloadConfig config) {
+        if (config.getTotalWeight() <= 0) {
+            throw new IllegalArgumentException("At least one operation weight must be positive");
+        }
+        this.config = config;
+        this.books = new ArrayList<>(config.getBookCount());
+        this.users = new ArrayList<>(config.getUserCount());
+        this.popularity = new ZipfDistribution(config.getBookCount(), config.getZipfExponent());
+
+        for (int i = 0; i < config.getBookCount(); i++) {
+            books.add(new Book(isbnFor(i), "Book Title " + i, "Author " + (i % 997)));
+        }
+        for (int i = 0; i < config.getUserCount(); i++) {
+            String userId = String.format("U%07d", i);
+            users.add(new User(userId, "Patron " + i, "patron" + i + "@example.com"));
+        }
+    }
+
+    public void populate(BookRepository bookRepository, UserRepository userRepository) {
+        for (Book book : books) {
+            bookRepository.save(book);
+        }
+        for (User user : users) {
+            userRepository.save(user);
+        }
+    }
+
+    public WorkloadSession newSession(int sessionId) {
+        return new WorkloadSession(this, new Random(config.getSeed() * 31 + sessionId));
+    }
+
+    String popularIsbn(Random random) {
+        return books.get(popularity.sample(random)).getIsbn();
+    }
+
+    String randomUserId(Random random) {
+        return users.get(random.nextInt(users.size())).getUserId();
+    }
+
+    public WorkloadConfig getConfig() { return config; }
+    public List<Book> getBooks() { return books; }
+    public List<User> getUsers() { return users; }
+
+    private static String isbnFor(int rank) {
+        return String.format("978%010d", rank);
+    }
+}
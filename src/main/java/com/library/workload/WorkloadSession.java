@@ -0,0 +1,66 @@
+package com.library.workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Single-threaded source of operations. Tracks the loans it has made so that
+ * returns target books that are actually out, rather than failing on random picks.
+ */
+public class WorkloadSession {
+    private final WorkloadGenerator generator;
+    private final WorkloadConfig config;
+    private final Random random;
+    private final List<Operation> loans = new ArrayList<>();
+
+    WorkloadSession(WorkloadGenerator generator, Random random) {
+        this.generator = generator;
+        this.config = generator.getConfig();
+        this.random = random;
+    }
+
+    public Operation next() {
+        OperationType type = pickType();
+        if (type == OperationType.RETURN && loans.isEmpty()) {
+            type = OperationType.BORROW;
+        }
+
+        switch (type) {
+            case BORROW:
+                return new Operation(type, generator.randomUserId(random), generator.popularIsbn(random));
+            case RETURN:
+                int index = random.nextInt(loans.size());
+                Operation loan = loans.get(index);
+                loans.set(index, loans.get(loans.size() - 1));
+                loans.remove(loans.size() - 1);
+                return new Operation(type, loan.getUserId(), loan.getIsbn());
+            default:
+                return new Operation(type, null, null);
+        }
+    }
+
+    public void completed(Operation operation, boolean success) {
+        if (success && operation.getType() == OperationType.BORROW) {
+            loans.add(operation);
+        }
+    }
+
+    public int outstandingLoans() {
+        return loans.size();
+    }
+
+    private OperationType pickType() {
+        int roll = random.nextInt(config.getTotalWeight());
+        if ((roll -= config.getBorrowWeight()) < 0) {
+            return OperationType.BORROW;
+        }
+        if ((roll -= config.getReturnWeight()) < 0) {
+            return OperationType.RETURN;
+        }
+        if ((roll -= config.getSearchWeight()) < 0) {
+            return OperationType.SEARCH;
+        }
+        return OperationType.NOTIFY;
+    }
+}
@@ -0,0 +1,178 @@
+package com.library.startup;
+
+import com.library.model.Book;
+import com.library.model.User;
+import com.library.repository.InMemoryBookRepository;
+import com.library.repository.InMemoryUserRepository;
+import com.library.workload.LoadReport;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for snapshot persistence and the fast-start warm-up
+ */
+public class FastStartTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path snapshotFile;
+    private InMemoryBookRepository bookRepository;
+    private InMemoryUserRepository userRepository;
+
+    @Before
+    public void setUp() {
+        snapshotFile = folder.getRoot().toPath().resolve("library-snapshot.dat");
+        bookRepository = new InMemoryBookRepository();
+        userRepository = new InMemoryUserRepository();
+
+        // Set up test data: one book on loan to one user
+        Book borrowed = new Book("978-0134685991", "Effective Java", "Joshua Bloch");
+        borrowed.setAvailable(false);
+        bookRepository.save(borrowed);
+        bookRepository.save(new Book("978-0596009205", "Head First Java", "Kathy Sierra"));
+
+        User user = new User("U001", "John Doe", "john@example.com");
+        user.setBorrowedBooksCount(1);
+        userRepository.save(user);
+    }
+
+    @Test
+    public void testSnapshot_RoundTripPreservesState() throws IOException {
+        FastStart fastStart = new FastStart(snapshotFile, 1_000);
+        fastStart.saveSnapshot(bookRepository, userRepository);
+
+        InMemoryBookRepository restoredBooks = new InMemoryBookRepository();
+        InMemoryUserRepository restoredUsers = new InMemoryUserRepository();
+        assertTrue(fastStart.restore(restoredBooks, restoredUsers));
+
+        assertEquals(2, restoredBooks.size());
+        assertFalse(restoredBooks.findByIsbn("978-0134685991").isAvailable());
+        assertEquals("Head First Java", restoredBooks.findByIsbn("978-0596009205").getTitle());
+        assertEquals(1, restoredUsers.findById("U001").getBorrowedBooksCount());
+        assertEquals("john@example.com", restoredUsers.findById("U001").getEmail());
+    }
+
+    @Test
+    public void testSaveSnapshot_FailedMoveLeavesNoTempFile() throws IOException {
+        // A non-empty directory at the target path makes the final rename fail
+        Files.createDirectories(snapshotFile.resolve("occupied"));
+
+        try {
+            new FastStart(snapshotFile).saveSnapshot(bookRepository, userRepository);
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // Expected behavior
+        }
+
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testRestore_NonEmptyRepositoriesAreNotOverwritten() throws IOException {
+        FastStart fastStart = new FastStart(snapshotFile);
+        fastStart.saveSnapshot(bookRepository, userRepository);
+
+        // Live state moves on after the snapshot: the book is returned
+        bookRepository.findByIsbn("978-0134685991").setAvailable(true);
+        userRepository.findById("U001").setBorrowedBooksCount(0);
+
+        assertFalse(fastStart.restore(bookRepository, userRepository));
+        assertTrue(bookRepository.findByIsbn("978-0134685991").isAvailable());
+        assertEquals(0, userRepository.findById("U001").getBorrowedBooksCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotRestoreInto_RejectsNonEmptyRepositories() throws IOException {
+        new FastStart(snapshotFile).saveSnapshot(bookRepository, userRepository);
+
+        LibrarySnapshot.read(snapshotFile).restoreInto(bookRepository, new InMemoryUserRepository());
+    }
+
+    @Test
+    public void testRestore_NoSnapshotLeavesRepositoriesEmpty() {
+        InMemoryBookRepository restoredBooks = new InMemoryBookRepository();
+        InMemoryUserRepository restoredUsers = new InMemoryUserRepository();
+
+        assertFalse(new FastStart(snapshotFile).restore(restoredBooks, restoredUsers));
+        assertEquals(0, restoredBooks.size());
+        assertEquals(0, restoredUsers.size());
+    }
+
+    @Test
+    public void testRestore_ForeignFileFallsBackToColdStart() throws IOException {
+        Files.write(snapshotFile, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+        assertColdStart();
+    }
+
+    @Test
+    public void testRestore_TruncatedFileFallsBackToColdStart() throws IOException {
+        new FastStart(snapshotFile).saveSnapshot(bookRepository, userRepository);
+        byte[] content = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(content, content.length - 3));
+
+        assertColdStart();
+    }
+
+    @Test
+    public void testRestore_NegativeCountFallsBackToColdStart() throws IOException {
+        // Valid magic and version, then a book count of -5
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x4C494253);
+        out.writeInt(1);
+        out.writeInt(-5);
+        out.close();
+        Files.write(snapshotFile, bytes.toByteArray());
+
+        assertColdStart();
+    }
+
+    @Test
+    public void testRestore_OversizedCountFallsBackToColdStart() throws IOException {
+        // Claims far more books than the file could hold
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x4C494253);
+        out.writeInt(1);
+        out.writeInt(Integer.MAX_VALUE);
+        out.close();
+        Files.write(snapshotFile, bytes.toByteArray());
+
+        assertColdStart();
+    }
+
+    @Test
+    public void testWarmUp_RunsRequestedOperationCount() {
+        LoadReport report = new FastStart(snapshotFile, 1_000).warmUp();
+
+        assertEquals(1_000, report.getTotalOperations());
+    }
+
+    private void assertColdStart() {
+        InMemoryBookRepository restoredBooks = new InMemoryBookRepository();
+        InMemoryUserRepository restoredUsers = new InMemoryUserRepository();
+
+        assertFalse(new FastStart(snapshotFile).restore(restoredBooks, restoredUsers));
+        assertEquals(0, restoredBooks.size());
+        assertEquals(0, restoredUsers.size());
+    }
+}
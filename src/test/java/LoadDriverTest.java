@@ -0,0 +1,165 @@
+package com.library.workload;
+
+import com.library.repository.InMemoryBookRepository;
+import com.library.repository.InMemoryUserRepository;
+import com.library.service.LibraryService;
+import com.library.service.NotificationService;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the synthetic workload generator and the in-process load driver
+ */
+public class LoadDriverTest {
+
+    private WorkloadConfig config;
+
+    @Before
+    public void setUp() {
+        // Small catalog so runs stay fast
+        config = new WorkloadConfig();
+        config.setBookCount(500);
+        config.setUserCount(200);
+    }
+
+    @Test
+    public void testZipfDistribution_FavoursLowRanks() {
+        ZipfDistribution zipf = new ZipfDistribution(1000, 1.0);
+        Random random = new Random(7);
+        int[] hits = new int[1000];
+
+        for (int i = 0; i < 100_000; i++) {
+            hits[zipf.sample(random)]++;
+        }
+
+        // Rank 0 should be drawn roughly twice as often as rank 1 and far more than the tail
+        assertTrue(hits[0] > hits[1] * 1.5);
+        assertTrue(hits[0] > hits[999] * 100);
+    }
+
+    @Test
+    public void testWorkloadGenerator_PopulatesRepositories() {
+        WorkloadGenerator generator = new WorkloadGenerator(config);
+        InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+
+        generator.populate(bookRepository, userRepository);
+
+        assertEquals(500, bookRepository.size());
+        assertEquals(200, userRepository.size());
+        assertEquals(500, bookRepository.findAvailableBooks().size());
+    }
+
+    @Test
+    public void testWorkloadSession_SameSeedSameOperations() {
+        WorkloadSession first = new WorkloadGenerator(config).newSession(3);
+        WorkloadSession second = new WorkloadGenerator(config).newSession(3);
+
+        for (int i = 0; i < 1000; i++) {
+            Operation a = first.next();
+            Operation b = second.next();
+            assertEquals(a.getType(), b.getType());
+            assertEquals(a.getUserId(), b.getUserId());
+            assertEquals(a.getIsbn(), b.getIsbn());
+            first.completed(a, true);
+            second.completed(b, true);
+        }
+    }
+
+    @Test
+    public void testWorkloadSession_ReturnsOnlyOutstandingLoans() {
+        config.setBorrowWeight(1);
+        config.setReturnWeight(1);
+        config.setSearchWeight(0);
+        config.setNotifyWeight(0);
+        WorkloadSession session = new WorkloadGenerator(config).newSession(0);
+
+        // First operation must be a borrow since nothing is on loan yet
+        Operation first = session.next();
+        assertEquals(OperationType.BORROW, first.getType());
+        session.completed(first, false);
+        assertEquals(0, session.outstandingLoans());
+
+        // Every return must hand back a loan made earlier in the session
+        List<String> onLoan = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Operation operation = session.next();
+            String key = operation.getUserId() + "/" + operation.getIsbn();
+            if (operation.getType() == OperationType.RETURN) {
+                assertTrue(onLoan.remove(key));
+            } else {
+                onLoan.add(key);
+            }
+            session.completed(operation, true);
+        }
+        assertEquals(onLoan.size(), session.outstandingLoans());
+    }
+
+    @Test
+    public void testClosedLoop_RunsEveryOperation() {
+        LoadDriver driver = LoadDriver.inMemory(new WorkloadGenerator(config));
+
+        LoadReport report = driver.runClosedLoop(4, 2_000);
+
+        assertEquals(8_000, report.getTotalOperations());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.getLatencies(OperationType.BORROW).getSuccesses() > 0);
+        assertTrue(report.getLatencies(OperationType.RETURN).getSuccesses() > 0);
+        assertTrue(report.getOverall().percentile(50) <= report.getOverall().percentile(99));
+    }
+
+    @Test
+    public void testConsecutiveRuns_ContinueSessionsAndLoans() {
+        // Single thread so the repository state matches the session bookkeeping exactly
+        WorkloadGenerator generator = new WorkloadGenerator(config);
+        InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        generator.populate(bookRepository, userRepository);
+        CountingEmailService emailService = new CountingEmailService();
+        LoadDriver driver = new LoadDriver(
+                new LibraryService(bookRepository, userRepository, emailService),
+                new NotificationService(userRepository, emailService),
+                generator);
+
+        LoadReport first = driver.runClosedLoop(1, 2_000);
+        assertEquals(500 - driver.outstandingLoans(), bookRepository.findAvailableBooks().size());
+        LoadReport second = driver.runClosedLoop(1, 2_000);
+        assertEquals(500 - driver.outstandingLoans(), bookRepository.findAvailableBooks().size());
+
+        // A replayed sequence would repeat the first run's operation mix exactly
+        assertNotEquals(first.getLatencies(OperationType.BORROW).getCount(),
+                second.getLatencies(OperationType.BORROW).getCount());
+    }
+
+    @Test
+    public void testOpenLoop_HoldsTargetRate() {
+        LoadDriver driver = LoadDriver.inMemory(new WorkloadGenerator(config));
+
+        // 2 threads x 250 ops at 5000 ops/s should take about 100 ms
+        LoadReport report = driver.runOpenLoop(2, 5_000, 250);
+
+        assertEquals(500, report.getTotalOperations());
+        assertTrue(report.getElapsedNanos() >= 90_000_000L);
+    }
+
+    @Test
+    public void testLatencyRecorder_Percentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 100; i >= 1; i--) {
+            recorder.record(i, i % 2 == 0);
+        }
+
+        assertEquals(50, recorder.percentile(50));
+        assertEquals(99, recorder.percentile(99));
+        assertEquals(100, recorder.max());
+        assertEquals(50, recorder.getSuccesses());
+    }
+}
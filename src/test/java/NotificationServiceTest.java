@@ -9,6 +9,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Elaborate test case for ZAK
  * Testing NotificationService.sendOverdueNotifications() method
@@ -206,4 +209,97 @@ public class NotificationServiceTest {
         // Verify mocks
         EasyMock.verify(mockUserRepository, mockEmailService);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSendOverdueDigests_RendersAndBatches() {
+        // Arrange - Three users with a batch size of two: one full batch, then a partial one
+        notificationService = new NotificationService(mockUserRepository, mockEmailService,
+                OverdueDigestTemplate.compile("Hi {name} <{email}>: {count}\n{books}"), 2);
+        User user3 = new User("U004", "Grace Taylor", "grace@example.com");
+        List<User> usersWithOverdue = Arrays.asList(userWithOverdueBooks1, userWithOverdueBooks2, user3);
+
+        EasyMock.expect(mockUserRepository.findUsersWithOverdueBooks()).andReturn(usersWithOverdue);
+
+        // Digests are reused after each call, so check them while the call is in progress
+        mockEmailService.sendOverdueDigests(EasyMock.anyObject());
+        EasyMock.expectLastCall().andAnswer(() -> {
+            List<OverdueDigest> digests = EasyMock.getCurrentArgument(0);
+            assertEquals(2, digests.size());
+            assertEquals("david@example.com", digests.get(0).getEmail());
+            assertEquals(overdueBookTitles, digests.get(0).getOverdueBooks());
+            assertEquals("Hi David Miller <david@example.com>: 2\n"
+                    + "  - Sample Overdue Book 1\n  - Sample Overdue Book 2\n", digests.get(0).getBody().toString());
+            assertEquals("Emma Davis", digests.get(1).getUserName());
+            return null;
+        });
+        mockEmailService.sendOverdueDigests(EasyMock.anyObject());
+        EasyMock.expectLastCall().andAnswer(() -> {
+            List<OverdueDigest> digests = EasyMock.getCurrentArgument(0);
+            assertEquals(1, digests.size());
+            assertTrue(digests.get(0).getBody().toString().startsWith("Hi Grace Taylor <grace@example.com>: 2"));
+            return null;
+        });
+
+        EasyMock.replay(mockUserRepository, mockEmailService);
+
+        // Act
+        notificationService.sendOverdueDigests();
+
+        // Assert & Verify - Two bulk sends, no per-user calls
+        EasyMock.verify(mockUserRepository, mockEmailService);
+    }
+
+    @Test
+    public void testSendOverdueDigests_NoUsersWithOverdueBooks() {
+        // Arrange - No users with overdue books
+        EasyMock.expect(mockUserRepository.findUsersWithOverdueBooks()).andReturn(Collections.emptyList());
+
+        // No bulk send expected for an empty batch
+        EasyMock.replay(mockUserRepository, mockEmailService);
+
+        // Act
+        notificationService.sendOverdueDigests();
+
+        // Assert & Verify
+        EasyMock.verify(mockUserRepository, mockEmailService);
+    }
+
+    @Test
+    public void testSendOverdueDigests_DefaultFallsBackToPerUserNotifications() {
+        // Arrange - An EmailService that does not override the bulk API
+        EmailService legacyEmailService = new EmailService() {
+            public void sendBorrowConfirmation(String email, String bookTitle) {
+                mockEmailService.sendBorrowConfirmation(email, bookTitle);
+            }
+            public void sendOverdueNotification(String email, String userName, List<String> overdueBooks) {
+                mockEmailService.sendOverdueNotification(email, userName, overdueBooks);
+            }
+            public void sendReturnConfirmation(String email, String bookTitle) {
+                mockEmailService.sendReturnConfirmation(email, bookTitle);
+            }
+        };
+        notificationService = new NotificationService(mockUserRepository, legacyEmailService);
+
+        EasyMock.expect(mockUserRepository.findUsersWithOverdueBooks())
+                .andReturn(Arrays.asList(userWithOverdueBooks1, userWithOverdueBooks2));
+
+        mockEmailService.sendOverdueNotification("david@example.com", "David Miller", overdueBookTitles);
+        EasyMock.expectLastCall();
+
+        mockEmailService.sendOverdueNotification("emma@example.com", "Emma Davis", overdueBookTitles);
+        EasyMock.expectLastCall();
+
+        EasyMock.replay(mockUserRepository, mockEmailService);
+
+        // Act
+        notificationService.sendOverdueDigests();
+
+        // Assert & Verify - Each digest became a per-user notification
+        EasyMock.verify(mockUserRepository, mockEmailService);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverdueDigestTemplate_UnknownPlaceholder() {
+        OverdueDigestTemplate.compile("Dear {nickname}");
+    }
+}